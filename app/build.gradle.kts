@@ -29,6 +29,20 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        unitTests {
+            // Robolectric butuh resource Android untuk menjalankan MainActivity di JVM
+            isIncludeAndroidResources = true
+            all {
+                // Heap cukup besar untuk stress test hingga 1 juta baris
+                it.maxHeapSize = "2g"
+                // Teruskan konfigurasi stress test (-Pstress.rows=... dst) ke JVM test
+                project.properties
+                    .filterKeys { key -> key.startsWith("stress.") }
+                    .forEach { (key, value) -> it.systemProperty(key, value.toString()) }
+            }
+        }
+    }
 }
 
 dependencies {
@@ -39,7 +53,9 @@ dependencies {
     implementation(libs.constraintlayout)
     implementation("androidx.recyclerview:recyclerview:1.3.2")
     implementation("androidx.cardview:cardview:1.0.0")
+    implementation(libs.roaringbitmap)
     testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 }
\ No newline at end of file
@@ -3,11 +3,18 @@ package com.example.todolist;
 import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
+import org.roaringbitmap.RoaringBitmap;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DatabaseHelper - Kelas untuk mengelola database SQLite
@@ -17,7 +24,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     // ========== KONSTANTA DATABASE ==========
     // Informasi dasar database (nama, versi, tabel)
     private static final String DATABASE_NAME = "todo_database";  // Nama file database
-    private static final int DATABASE_VERSION = 2;               // Versi database
+    private static final int DATABASE_VERSION = 3;               // Versi database (3 = tambah tabel tag)
     
     // Nama tabel dan kolom-kolom di database
     private static final String TABLE_TODOS = "todos";           // Nama tabel
@@ -26,6 +33,16 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     private static final String COLUMN_COMPLETED = "completed";  // Kolom status selesai
     private static final String COLUMN_CREATED_AT = "created_at"; // Kolom waktu pembuatan
 
+    // Tabel tag dan tabel penghubung tag <-> tugas (many-to-many)
+    private static final String TABLE_TAGS = "tags";             // Nama tabel tag
+    private static final String COLUMN_TAG_NAME = "name";        // Kolom nama tag (unik)
+    private static final String TABLE_TODO_TAGS = "todo_tags";   // Nama tabel penghubung
+    private static final String COLUMN_TODO_ID = "todo_id";      // Kolom ID tugas
+    private static final String COLUMN_TAG_ID = "tag_id";        // Kolom ID tag
+
+    // Indeks bitmap tag di memori, dibangun lazy saat filter pertama kali dipakai
+    private final TagBitmapIndex tagIndex = new TagBitmapIndex();
+
     /**
      * Constructor - Membuat objek DatabaseHelper
      * @param context = konteks aplikasi (biasanya dari Activity)
@@ -48,15 +65,42 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 + COLUMN_CREATED_AT + " INTEGER DEFAULT 0"           // Waktu default 0
                 + ")";
         db.execSQL(createTable); // Jalankan perintah SQL
+        createTagTables(db);     // Buat tabel tag dan penghubungnya
+    }
+
+    /**
+     * Membuat tabel tags dan todo_tags beserta indeksnya
+     * PRIMARY KEY (todo_id, tag_id) mempercepat cari tag per tugas,
+     * indeks tag_id mempercepat scan tugas per tag saat membangun bitmap
+     */
+    private void createTagTables(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_TAGS + "("
+                + COLUMN_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"  // ID otomatis bertambah
+                + COLUMN_TAG_NAME + " TEXT NOT NULL UNIQUE"          // Nama tag tidak boleh dobel
+                + ")");
+        db.execSQL("CREATE TABLE " + TABLE_TODO_TAGS + "("
+                + COLUMN_TODO_ID + " INTEGER NOT NULL,"
+                + COLUMN_TAG_ID + " INTEGER NOT NULL,"
+                + "PRIMARY KEY (" + COLUMN_TODO_ID + ", " + COLUMN_TAG_ID + ")"
+                + ")");
+        db.execSQL("CREATE INDEX idx_todo_tags_tag_id ON " + TABLE_TODO_TAGS
+                + "(" + COLUMN_TAG_ID + ", " + COLUMN_TODO_ID + ")");
     }
 
     /**
      * Method yang dipanggil saat database perlu diupgrade
-     * Hapus tabel lama dan buat yang baru
+     * Dari versi 2 cukup tambah tabel tag (data tugas tetap aman),
+     * versi yang lebih lama: hapus tabel lama dan buat yang baru
      */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TODOS); // Hapus tabel lama
+        if (oldVersion == 2) {
+            createTagTables(db); // Tambah tabel tag saja
+            return;
+        }
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TODO_TAGS); // Hapus tabel lama
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TAGS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TODOS);
         onCreate(db); // Buat tabel baru
     }
 
@@ -74,8 +118,25 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         values.put(COLUMN_COMPLETED, todo.isCompleted() ? 1 : 0);       // Konversi boolean ke integer
         values.put(COLUMN_CREATED_AT, todo.getCreatedAt());             // Masukkan waktu pembuatan
         
-        long id = db.insert(TABLE_TODOS, null, values); // Simpan ke database
-        db.close(); // Tutup koneksi database
+        List<String> tags = TagBitmapIndex.normalizeTags(todo.getTags());
+        long id;
+        synchronized (tagIndex) { // Tulis database + bitmap tanpa diselingi rebuild
+            db.beginTransaction(); // Tugas dan tag-nya disimpan sekaligus
+            try {
+                id = db.insert(TABLE_TODOS, null, values); // Simpan ke database
+                if (id != -1) {
+                    replaceTags(db, id, tags);             // Simpan tag tugas
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            db.close(); // Tutup koneksi database
+
+            if (id != -1) {
+                tagIndex.update(id, Collections.<String>emptyList(), tags); // Perbarui bitmap tag
+            }
+        }
         return id;  // Kembalikan ID tugas baru
     }
 
@@ -140,10 +201,179 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public void deleteTodo(long id) {
         SQLiteDatabase db = this.getWritableDatabase(); // Buka database untuk menulis
         
-        // Hapus baris dengan ID tertentu
-        // WHERE id = ? (? akan diganti dengan ID tugas)
-        db.delete(TABLE_TODOS, COLUMN_ID + " = ?", new String[]{String.valueOf(id)});
-        
+        synchronized (tagIndex) { // Tulis database + bitmap tanpa diselingi rebuild
+            // Hapus baris dengan ID tertentu beserta relasi tag-nya
+            // WHERE id = ? (? akan diganti dengan ID tugas)
+            List<String> oldTags;
+            db.beginTransaction();
+            try {
+                oldTags = replaceTags(db, id, Collections.<String>emptyList());
+                db.delete(TABLE_TODOS, COLUMN_ID + " = ?", new String[]{String.valueOf(id)});
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+
+            db.close(); // Tutup database
+            tagIndex.remove(id, oldTags); // Keluarkan dari bitmap tag lamanya saja
+        }
+    }
+
+    /**
+     * Mengganti semua tag milik satu tugas
+     * @param todoId = ID tugas
+     * @param tags = daftar tag baru (akan dinormalkan, boleh kosong untuk hapus semua tag)
+     */
+    public void setTodoTags(long todoId, List<String> tags) {
+        List<String> normalized = TagBitmapIndex.normalizeTags(tags);
+        SQLiteDatabase db = this.getWritableDatabase(); // Buka database untuk menulis
+
+        synchronized (tagIndex) { // Tulis database + bitmap tanpa diselingi rebuild
+            List<String> oldTags;
+            db.beginTransaction();
+            try {
+                oldTags = replaceTags(db, todoId, normalized);
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+
+            db.close(); // Tutup database
+            tagIndex.update(todoId, oldTags, normalized); // Perbarui bitmap tag yang berubah saja
+        }
+    }
+
+    /**
+     * Mengambil tag satu tugas (urut sesuai waktu ditambahkan)
+     * Dipanggil adapter hanya untuk item yang tampil di layar, jadi memuat list tidak perlu scan tag.
+     * Koneksi sengaja tidak ditutup karena dipanggil berkali-kali saat scroll
+     */
+    public List<String> getTagsForTodo(long todoId) {
+        SQLiteDatabase db = this.getReadableDatabase(); // Buka database untuk membaca
+        return new ArrayList<>(queryTags(db, todoId).values());
+    }
+
+    /**
+     * Membaca tag milik satu tugas lewat PRIMARY KEY (todo_id, tag_id)
+     * @return map ID tag -> nama tag, urut sesuai waktu ditambahkan
+     */
+    private Map<Long, String> queryTags(SQLiteDatabase db, long todoId) {
+        Map<Long, String> tags = new LinkedHashMap<>();
+        String selectQuery = "SELECT tt." + COLUMN_TAG_ID + ", t." + COLUMN_TAG_NAME
+                + " FROM " + TABLE_TODO_TAGS + " tt JOIN " + TABLE_TAGS + " t"
+                + " ON t." + COLUMN_ID + " = tt." + COLUMN_TAG_ID
+                + " WHERE tt." + COLUMN_TODO_ID + " = ?"
+                + " ORDER BY tt.rowid";
+        Cursor cursor = db.rawQuery(selectQuery, new String[]{String.valueOf(todoId)});
+        while (cursor.moveToNext()) {
+            tags.put(cursor.getLong(0), cursor.getString(1));
+        }
+        cursor.close();
+        return tags;
+    }
+
+    /**
+     * Menulis ulang relasi tag satu tugas di dalam transaksi yang sedang berjalan
+     * Tag yang belum ada di tabel tags otomatis dibuat,
+     * tag lama yang tidak lagi dipakai tugas mana pun ikut dihapus
+     * @return nama tag lama milik tugas (untuk memperbarui bitmap yang terdampak saja)
+     */
+    private List<String> replaceTags(SQLiteDatabase db, long todoId, List<String> tags) {
+        Map<Long, String> oldTags = queryTags(db, todoId);
+
+        db.delete(TABLE_TODO_TAGS, COLUMN_TODO_ID + " = ?", new String[]{String.valueOf(todoId)});
+        for (String tag : tags) {
+            ContentValues values = new ContentValues();
+            values.put(COLUMN_TODO_ID, todoId);
+            values.put(COLUMN_TAG_ID, getOrCreateTagId(db, tag));
+            db.insertWithOnConflict(TABLE_TODO_TAGS, null, values, SQLiteDatabase.CONFLICT_IGNORE);
+        }
+
+        // Hapus tag yatim (tidak dipakai tugas apa pun), cek lewat indeks tag_id
+        for (Long tagId : oldTags.keySet()) {
+            String[] args = new String[]{String.valueOf(tagId)};
+            if (DatabaseUtils.queryNumEntries(db, TABLE_TODO_TAGS, COLUMN_TAG_ID + " = ?", args) == 0) {
+                db.delete(TABLE_TAGS, COLUMN_ID + " = ?", args);
+            }
+        }
+        return new ArrayList<>(oldTags.values());
+    }
+
+    /**
+     * Mencari ID tag berdasarkan nama, atau membuat tag baru jika belum ada
+     */
+    private long getOrCreateTagId(SQLiteDatabase db, String tag) {
+        Cursor cursor = db.query(TABLE_TAGS, new String[]{COLUMN_ID},
+                COLUMN_TAG_NAME + " = ?", new String[]{tag}, null, null, null);
+        try {
+            if (cursor.moveToFirst()) {
+                return cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        ContentValues values = new ContentValues();
+        values.put(COLUMN_TAG_NAME, tag);
+        return db.insert(TABLE_TAGS, null, values);
+    }
+
+    /**
+     * Mencari ID tugas yang cocok dengan filter tag memakai bitmap di memori
+     * Bitmap dibangun dari database saat pertama kali dipakai (lazy).
+     * Cek, rebuild, dan load dikunci bersama penulisan tag, jadi tidak ada penulisan yang terlewat
+     * @param tags = daftar tag yang dicari (akan dinormalkan)
+     * @param matchAll = true untuk DAN (semua tag), false untuk ATAU (salah satu tag)
+     * @return bitmap berisi ID tugas yang cocok
+     */
+    public RoaringBitmap findTodoIdsByTags(List<String> tags, boolean matchAll) {
+        List<String> normalized = TagBitmapIndex.normalizeTags(tags);
+        synchronized (tagIndex) {
+            if (!tagIndex.isLoaded()) {
+                rebuildTagIndex();
+            }
+            return matchAll ? tagIndex.matchAll(normalized) : tagIndex.matchAny(normalized);
+        }
+    }
+
+    /**
+     * Membangun ulang bitmap semua tag dari tabel todo_tags
+     * Scan diurutkan per tag lewat indeks tag_id, jadi tiap bitmap diisi berurutan.
+     * Harus dipanggil sambil memegang kunci tagIndex
+     */
+    private void rebuildTagIndex() {
+        SQLiteDatabase db = this.getReadableDatabase(); // Buka database untuk membaca
+
+        Map<Long, String> tagNames = new HashMap<>(); // ID tag -> nama tag
+        Cursor tagCursor = db.query(TABLE_TAGS, new String[]{COLUMN_ID, COLUMN_TAG_NAME},
+                null, null, null, null, null);
+        while (tagCursor.moveToNext()) {
+            tagNames.put(tagCursor.getLong(0), tagCursor.getString(1));
+        }
+        tagCursor.close();
+
+        Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+        Cursor cursor = db.query(TABLE_TODO_TAGS, new String[]{COLUMN_TAG_ID, COLUMN_TODO_ID},
+                null, null, null, null, COLUMN_TAG_ID + ", " + COLUMN_TODO_ID);
+        long currentTagId = -1;
+        RoaringBitmap current = null;
+        while (cursor.moveToNext()) {
+            long tagId = cursor.getLong(0);
+            if (current == null || tagId != currentTagId) {
+                String name = tagNames.get(tagId);
+                if (name == null) {
+                    current = null; // Tag sudah tidak ada, lewati
+                    continue;
+                }
+                currentTagId = tagId;
+                current = new RoaringBitmap();
+                bitmaps.put(name, current);
+            }
+            current.add(TagBitmapIndex.ordinal(cursor.getLong(1)));
+        }
+        cursor.close();
         db.close(); // Tutup database
+
+        tagIndex.load(bitmaps);
     }
 } 
\ No newline at end of file
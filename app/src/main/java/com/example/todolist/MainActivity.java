@@ -2,10 +2,15 @@ package com.example.todolist;
 
 import android.app.AlertDialog;
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextUtils;
+import android.text.TextWatcher;
 import android.view.View;
+import android.widget.Button;
 import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.LinearLayout;
+import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
@@ -16,7 +21,11 @@ import androidx.core.view.WindowInsetsCompat;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -31,11 +40,20 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
     private ImageButton buttonAdd;    // Tombol untuk menambah tugas
     private RecyclerView recyclerView; // List untuk menampilkan semua tugas
     private LinearLayout layoutEmpty; // Layout yang muncul saat belum ada tugas
+    private TextView textEmpty;       // Pesan di dalam empty state
+    private EditText editTextFilter;  // Input field untuk filter tag
+    private Button buttonFilterMode;  // Tombol ganti mode filter DAN/ATAU
     
     // ========== KOMPONEN DATA ==========
     private DatabaseHelper databaseHelper; // Helper untuk operasi database
     private TodoAdapter adapter;           // Adapter untuk RecyclerView
-    private List<Todo> todoList;           // List berisi semua data tugas
+    private List<Todo> allTodos;           // List berisi semua data tugas dari database
+    private int[] positionById;            // ID tugas -> posisi di allTodos (-1 = tidak ada)
+    private List<Todo> todoList;           // List tugas yang sedang ditampilkan (setelah filter)
+    private boolean filterMatchAll = true; // Mode filter: true = DAN (semua tag), false = ATAU
+
+    // Key untuk menyimpan mode filter saat Activity dibuat ulang (misal rotasi layar)
+    private static final String KEY_FILTER_MATCH_ALL = "filter_match_all";
 
     /**
      * Method yang dipanggil saat Activity pertama kali dibuat
@@ -56,6 +74,11 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
         
         // ========== PROSES INISIALISASI ==========
         initViews();           // 1. Inisialisasi semua view component
+        if (savedInstanceState != null) {
+            // Pulihkan mode filter; teks filter dipulihkan otomatis oleh EditText
+            filterMatchAll = savedInstanceState.getBoolean(KEY_FILTER_MATCH_ALL, true);
+        }
+        updateFilterModeLabel();
         setupDatabase();       // 2. Setup koneksi database
         setupRecyclerView();   // 3. Setup RecyclerView dan adapter
         setupClickListeners(); // 4. Setup event listener untuk tombol
@@ -71,8 +94,27 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
         buttonAdd = findViewById(R.id.buttonAdd);         // Tombol tambah
         recyclerView = findViewById(R.id.recyclerView);   // List tugas
         layoutEmpty = findViewById(R.id.layoutEmpty);     // Empty state
+        textEmpty = findViewById(R.id.textEmpty);         // Pesan empty state
+        editTextFilter = findViewById(R.id.editTextFilter);     // Filter tag
+        buttonFilterMode = findViewById(R.id.buttonFilterMode); // Mode filter
     }
     
+    /**
+     * Simpan mode filter supaya tidak kembali ke DAN setelah rotasi layar
+     */
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putBoolean(KEY_FILTER_MATCH_ALL, filterMatchAll);
+    }
+
+    /**
+     * Menyesuaikan teks tombol dengan mode filter (DAN/ATAU)
+     */
+    private void updateFilterModeLabel() {
+        buttonFilterMode.setText(filterMatchAll ? R.string.filter_mode_all : R.string.filter_mode_any);
+    }
+
     /**
      * Setup koneksi database
      * Membuat instance DatabaseHelper untuk operasi database
@@ -87,7 +129,7 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
      */
     private void setupRecyclerView() {
         todoList = new ArrayList<>();                           // Buat list kosong
-        adapter = new TodoAdapter(todoList, this);              // Buat adapter dengan listener = this
+        adapter = new TodoAdapter(todoList, this, databaseHelper::getTagsForTodo); // Listener = this, tag dimuat per item
         recyclerView.setLayoutManager(new LinearLayoutManager(this)); // Set layout manager (vertical list)
         recyclerView.setAdapter(adapter);                       // Pasang adapter ke RecyclerView
     }
@@ -99,6 +141,29 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
     private void setupClickListeners() {
         // Lambda expression: saat tombol add diklik, panggil method addTodo()
         buttonAdd.setOnClickListener(v -> addTodo());
+
+        // Ganti mode filter DAN <-> ATAU lalu terapkan ulang filter
+        buttonFilterMode.setOnClickListener(v -> {
+            filterMatchAll = !filterMatchAll;
+            updateFilterModeLabel();
+            applyTagFilter();
+        });
+
+        // Terapkan filter setiap kali teks filter berubah (tanpa memuat ulang database)
+        editTextFilter.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                applyTagFilter();
+            }
+        });
     }
     
     /**
@@ -137,12 +202,63 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
      * Dipanggil saat pertama kali buka app atau setelah ada perubahan data
      */
     private void loadTodos() {
-        todoList = databaseHelper.getAllTodos(); // Ambil semua data dari database
+        allTodos = databaseHelper.getAllTodos(); // Ambil semua data dari database
+        indexPositions();                        // Catat posisi setiap tugas untuk filter
+        applyTagFilter();                        // Tampilkan sesuai filter tag
+    }
+
+    /**
+     * Membuat tabel ID tugas -> posisi di allTodos (urutan terbaru dulu)
+     * Dibuat sekali per load, supaya filter cukup membaca ID yang cocok saja
+     */
+    private void indexPositions() {
+        int maxOrdinal = -1;
+        for (Todo todo : allTodos) {
+            maxOrdinal = Math.max(maxOrdinal, TagBitmapIndex.ordinal(todo.getId()));
+        }
+        positionById = new int[maxOrdinal + 1];
+        Arrays.fill(positionById, -1);
+        for (int i = 0; i < allTodos.size(); i++) {
+            positionById[TagBitmapIndex.ordinal(allTodos.get(i).getId())] = i;
+        }
+    }
+
+    /**
+     * Menyaring tugas berdasarkan tag di input filter, lalu tampilkan di RecyclerView
+     * Pencocokan tag dihitung dengan bitmap di DatabaseHelper, lalu ID yang cocok diubah
+     * menjadi bitmap posisi, jadi biayanya sebanding dengan jumlah hasil, bukan jumlah semua tugas
+     */
+    private void applyTagFilter() {
+        if (allTodos == null) {
+            return; // Data belum dimuat
+        }
+
+        List<String> tags = TagBitmapIndex.parseTags(editTextFilter.getText().toString());
+        if (tags.isEmpty()) {
+            todoList = allTodos; // Tanpa filter, tampilkan semua
+        } else {
+            RoaringBitmap matches = databaseHelper.findTodoIdsByTags(tags, filterMatchAll);
+            RoaringBitmap positions = new RoaringBitmap();
+            IntIterator ids = matches.getIntIterator();
+            while (ids.hasNext()) {
+                int id = ids.next();
+                if (id < positionById.length && positionById[id] >= 0) {
+                    positions.add(positionById[id]);
+                }
+            }
+
+            todoList = new ArrayList<>(positions.getCardinality());
+            IntIterator ordered = positions.getIntIterator();
+            while (ordered.hasNext()) {
+                todoList.add(allTodos.get(ordered.next())); // Urutan tetap dari terbaru
+            }
+        }
         adapter.updateTodos(todoList);           // Update adapter dengan data baru
         
         // ========== MANAJEMEN TAMPILAN EMPTY STATE ==========
         if (todoList.isEmpty()) {
-            // Jika belum ada tugas, tampilkan empty state
+            // Jika tidak ada tugas yang tampil, bedakan "belum ada tugas" dan "filter tidak cocok"
+            textEmpty.setText(allTodos.isEmpty() ? R.string.empty_list : R.string.empty_filter);
             layoutEmpty.setVisibility(View.VISIBLE);   // Tampilkan layout empty
             recyclerView.setVisibility(View.GONE);     // Sembunyikan RecyclerView
         } else {
@@ -210,6 +326,11 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
         // ========== PRE-FILL DATA ==========
         editTextTask.setText(todo.getTitle());                              // Isi dengan judul sekarang
         editTextTask.setSelection(editTextTask.getText().length());         // Taruh cursor di akhir text
+        EditText editTextTags = dialogView.findViewById(R.id.editTextTags); // Input tag di dialog
+        if (!todo.areTagsLoaded()) {
+            todo.setTags(databaseHelper.getTagsForTodo(todo.getId()));      // Pastikan tag sudah dimuat
+        }
+        editTextTags.setText(TextUtils.join(", ", todo.getTags()));         // Isi dengan tag sekarang
         
         // Buat dan tampilkan dialog
         AlertDialog dialog = new AlertDialog.Builder(this)
@@ -231,10 +352,20 @@ public class MainActivity extends AppCompatActivity implements TodoAdapter.OnTod
             }
             
             // ========== PROSES UPDATE ==========
-            if (!newTitle.equals(todo.getTitle())) {
+            List<String> newTags = TagBitmapIndex.parseTags(editTextTags.getText().toString());
+            boolean titleChanged = !newTitle.equals(todo.getTitle());
+            boolean tagsChanged = !newTags.equals(todo.getTags());
+            if (titleChanged) {
                 // Jika judul berubah, update ke database
                 todo.setTitle(newTitle);                // Update objek
                 databaseHelper.updateTodo(todo);        // Simpan ke database
+            }
+            if (tagsChanged) {
+                // Jika tag berubah, ganti tag di database (bitmap tag ikut diperbarui)
+                todo.setTags(newTags);                                // Update objek
+                databaseHelper.setTodoTags(todo.getId(), newTags);    // Simpan ke database
+            }
+            if (titleChanged || tagsChanged) {
                 loadTodos();                            // Refresh tampilan
                 Toast.makeText(this, "Tugas berhasil diperbarui", Toast.LENGTH_SHORT).show();
             }
@@ -0,0 +1,178 @@
+package com.example.todolist;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TagBitmapIndex - Indeks tag di memori, satu bitmap terkompresi (Roaring) per tag
+ * Setiap bit mewakili satu tugas, dengan ordinal = ID tugas di database
+ * Filter DAN/ATAU beberapa tag cukup dihitung dengan operasi bitmap, tanpa JOIN SQL
+ * Indeks dibangun ulang secara lazy oleh DatabaseHelper, lalu dijaga tetap sinkron di setiap penulisan
+ */
+public class TagBitmapIndex {
+    private final Map<String, RoaringBitmap> bitmaps = new HashMap<>(); // Nama tag -> bitmap ID tugas
+    private boolean loaded = false;                                     // Sudah dibangun dari database?
+
+    /**
+     * Mengubah ID tugas menjadi ordinal bitmap
+     * ID dari AUTOINCREMENT selalu positif dan jauh di bawah batas int
+     */
+    static int ordinal(long todoId) {
+        return Math.toIntExact(todoId);
+    }
+
+    /**
+     * Menormalkan satu tag: hapus tanda '#' di depan, rapikan spasi, jadikan huruf kecil
+     * Tag boleh terdiri dari beberapa kata, spasi di tengah diringkas jadi satu
+     * @return tag yang sudah normal, atau string kosong jika tidak valid
+     */
+    static String normalizeTag(String raw) {
+        String tag = raw.trim();
+        while (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        return tag.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Memecah teks input (dipisah koma) menjadi daftar tag unik
+     * Contoh: "#Kerja, rumah  tangga, kerja" -> [kerja, rumah tangga]
+     */
+    static List<String> parseTags(String text) {
+        return normalizeTags(Arrays.asList(text.split(",")));
+    }
+
+    /**
+     * Menormalkan kumpulan tag dan membuang yang kosong atau duplikat (urutan tetap)
+     */
+    static List<String> normalizeTags(Collection<String> tags) {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String raw : tags) {
+            String tag = normalizeTag(raw);
+            if (!tag.isEmpty()) {
+                unique.add(tag);
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Mengganti seluruh isi indeks dengan hasil scan database
+     * @param rebuilt = bitmap per tag yang baru dibangun
+     */
+    public synchronized void load(Map<String, RoaringBitmap> rebuilt) {
+        bitmaps.clear();
+        for (Map.Entry<String, RoaringBitmap> entry : rebuilt.entrySet()) {
+            RoaringBitmap bitmap = entry.getValue();
+            bitmap.runOptimize(); // Kompres deretan ID berurutan menjadi run
+            bitmaps.put(entry.getKey(), bitmap);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Mengganti tag milik satu tugas, hanya menyentuh bitmap tag lama dan tag baru
+     * Diabaikan jika indeks belum dibangun, karena rebuild nanti membaca data terbaru
+     * @param oldTags = tag tugas sebelum diubah (dibaca dari database di transaksi yang sama)
+     * @param newTags = tag tugas setelah diubah
+     */
+    public synchronized void update(long todoId, Collection<String> oldTags, Collection<String> newTags) {
+        if (!loaded) {
+            return;
+        }
+        int ordinal = ordinal(todoId);
+        removeOrdinal(ordinal, oldTags);
+        for (String tag : newTags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                bitmap = new RoaringBitmap();
+                bitmaps.put(tag, bitmap);
+            }
+            bitmap.add(ordinal);
+        }
+    }
+
+    /**
+     * Menghapus tugas dari bitmap tag lamanya (dipanggil saat tugas dihapus)
+     */
+    public synchronized void remove(long todoId, Collection<String> oldTags) {
+        if (loaded) {
+            removeOrdinal(ordinal(todoId), oldTags);
+        }
+    }
+
+    /**
+     * Mengeluarkan ordinal dari bitmap tag tertentu, bitmap yang jadi kosong ikut dibuang
+     * (sama seperti baris tag yatim yang dihapus dari database)
+     */
+    private void removeOrdinal(int ordinal, Collection<String> tags) {
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Jumlah tag yang punya bitmap (tag tanpa tugas tidak dihitung)
+     */
+    public synchronized int size() {
+        return bitmaps.size();
+    }
+
+    /**
+     * Filter DAN: tugas yang memiliki SEMUA tag
+     * @return bitmap ID tugas yang cocok (salinan baru, aman diubah pemanggil)
+     */
+    public synchronized RoaringBitmap matchAll(List<String> tags) {
+        List<RoaringBitmap> selected = new ArrayList<>();
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                return new RoaringBitmap(); // Ada tag yang tidak dipakai siapa pun -> hasil kosong
+            }
+            selected.add(bitmap);
+        }
+        if (selected.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return FastAggregation.and(selected.iterator());
+    }
+
+    /**
+     * Filter ATAU: tugas yang memiliki SALAH SATU tag
+     * @return bitmap ID tugas yang cocok (salinan baru, aman diubah pemanggil)
+     */
+    public synchronized RoaringBitmap matchAny(List<String> tags) {
+        List<RoaringBitmap> selected = new ArrayList<>();
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        if (selected.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return FastAggregation.or(selected.iterator());
+    }
+}
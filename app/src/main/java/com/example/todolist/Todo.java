@@ -1,5 +1,8 @@
 package com.example.todolist;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Kelas Todo - Model data untuk menyimpan informasi tugas
  * Seperti blueprint atau cetakan untuk membuat objek tugas
@@ -10,6 +13,7 @@ public class Todo {
     private String title;      // Judul atau isi tugas
     private boolean completed; // Status: true = selesai, false = belum selesai
     private long createdAt;    // Waktu kapan tugas dibuat (dalam format timestamp)
+    private List<String> tags; // Daftar tag (null = belum dimuat, dimuat saat item tampil di layar)
 
     /**
      * Constructor kosong - untuk membuat tugas baru tanpa parameter
@@ -99,4 +103,26 @@ public class Todo {
     public void setCreatedAt(long createdAt) {
         this.createdAt = createdAt;
     }
+
+    /**
+     * Mengambil daftar tag tugas
+     * @return list tag, atau list kosong jika belum punya tag / belum dimuat
+     */
+    public List<String> getTags() {
+        return tags == null ? Collections.<String>emptyList() : tags;
+    }
+
+    /**
+     * Mengecek apakah tag tugas sudah dimuat dari database
+     */
+    public boolean areTagsLoaded() {
+        return tags != null;
+    }
+
+    /**
+     * Mengubah daftar tag tugas
+     */
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
 } 
\ No newline at end of file
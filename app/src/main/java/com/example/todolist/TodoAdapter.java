@@ -21,6 +21,7 @@ import java.util.List;
 public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder> {
     private List<Todo> todoList; // List berisi semua data tugas
     private OnTodoClickListener listener; // Interface untuk menangani klik user
+    private TagLoader tagLoader;          // Pemuat tag untuk item yang tampil
 
     /**
      * Interface untuk menangani event klik dari user
@@ -32,14 +33,24 @@ public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder
         void onTodoEdit(Todo todo);     // Ketika tombol edit diklik
     }
 
+    /**
+     * Interface untuk memuat tag satu tugas
+     * Tag hanya dimuat untuk item yang benar-benar tampil, bukan untuk seluruh list
+     */
+    public interface TagLoader {
+        List<String> loadTags(long todoId);
+    }
+
     /**
      * Constructor untuk membuat adapter
      * @param todoList = data tugas yang akan ditampilkan
      * @param listener = objek yang akan menangani event klik
+     * @param tagLoader = pemuat tag untuk item yang tampil
      */
-    public TodoAdapter(List<Todo> todoList, OnTodoClickListener listener) {
+    public TodoAdapter(List<Todo> todoList, OnTodoClickListener listener, TagLoader tagLoader) {
         this.todoList = todoList;
         this.listener = listener;
+        this.tagLoader = tagLoader;
     }
 
     /**
@@ -63,6 +74,7 @@ public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder
     public void onBindViewHolder(@NonNull TodoViewHolder holder, int position) {
         Todo todo = todoList.get(position);
         holder.textTitle.setText(todo.getTitle());
+        bindTags(holder, todo);
         
         // Setup TextView-based checkbox
         updateCheckboxState(holder, todo);
@@ -91,6 +103,29 @@ public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder
         });
     }
 
+    /**
+     * Menampilkan tag tugas di bawah judul (disembunyikan jika tidak punya tag)
+     */
+    private void bindTags(TodoViewHolder holder, Todo todo) {
+        if (!todo.areTagsLoaded() && tagLoader != null) {
+            todo.setTags(tagLoader.loadTags(todo.getId())); // Muat sekali, lalu disimpan di objek
+        }
+        List<String> tags = todo.getTags();
+        if (tags.isEmpty()) {
+            holder.textTags.setVisibility(View.GONE);
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        for (String tag : tags) {
+            if (text.length() > 0) {
+                text.append("  ");
+            }
+            text.append('#').append(tag);
+        }
+        holder.textTags.setText(text);
+        holder.textTags.setVisibility(View.VISIBLE);
+    }
+
     private void updateCheckboxState(TodoViewHolder holder, Todo todo) {
         holder.checkBox.setSelected(todo.isCompleted());
         
@@ -134,6 +169,7 @@ public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder
     static class TodoViewHolder extends RecyclerView.ViewHolder {
         TextView checkBox;          // TextView acting as checkbox
         TextView textTitle;         // TextView untuk menampilkan judul tugas
+        TextView textTags;          // TextView untuk menampilkan tag tugas
         ImageButton buttonEdit;     // Tombol untuk edit tugas
         ImageButton buttonDelete;   // Tombol untuk hapus tugas
 
@@ -146,6 +182,7 @@ public class TodoAdapter extends RecyclerView.Adapter<TodoAdapter.TodoViewHolder
             // Cari dan simpan referensi view berdasarkan ID
             checkBox = itemView.findViewById(R.id.checkBox);
             textTitle = itemView.findViewById(R.id.textTitle);
+            textTags = itemView.findViewById(R.id.textTags);
             buttonEdit = itemView.findViewById(R.id.buttonEdit);
             buttonDelete = itemView.findViewById(R.id.buttonDelete);
         }
@@ -0,0 +1,94 @@
+package com.example.todolist;
+
+import android.content.Context;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test Robolectric untuk tag di DatabaseHelper: upgrade skema v2 -> v3,
+ * sinkronisasi bitmap setelah penulisan, dan penghapusan tag yatim
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DatabaseHelperTagTest {
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+    }
+
+    @Test
+    public void upgradeFromVersion2_keepsExistingTodos() {
+        // Buat database versi 2 (skema sebelum ada tag) secara manual
+        File file = context.getDatabasePath("todo_database");
+        file.getParentFile().mkdirs();
+        SQLiteDatabase old = SQLiteDatabase.openOrCreateDatabase(file, null);
+        old.execSQL("CREATE TABLE todos(id INTEGER PRIMARY KEY AUTOINCREMENT, title TEXT NOT NULL,"
+                + " completed INTEGER DEFAULT 0, created_at INTEGER DEFAULT 0)");
+        old.execSQL("INSERT INTO todos (title, completed, created_at) VALUES ('Lama 1', 0, 1)");
+        old.execSQL("INSERT INTO todos (title, completed, created_at) VALUES ('Lama 2', 1, 2)");
+        old.setVersion(2);
+        old.close();
+
+        DatabaseHelper helper = new DatabaseHelper(context);
+        List<Todo> todos = helper.getAllTodos();
+        assertEquals(2, todos.size());
+        assertEquals("Lama 2", todos.get(0).getTitle());
+
+        // Tabel tag baru harus bisa langsung dipakai
+        long id = todos.get(1).getId();
+        helper.setTodoTags(id, Collections.singletonList("kerja"));
+        assertEquals(Collections.singletonList("kerja"), helper.getTagsForTodo(id));
+    }
+
+    @Test
+    public void writes_keepLoadedBitmapInSync() {
+        DatabaseHelper helper = new DatabaseHelper(context);
+        Todo todo = new Todo("Rapat");
+        todo.setTags(Arrays.asList("#Kerja", "kantor"));
+        long id = helper.addTodo(todo);
+
+        // Bitmap dibangun di sini, penulisan berikutnya diperbarui secara incremental
+        assertTrue(helper.findTodoIdsByTags(Arrays.asList("kerja", "kantor"), true).contains((int) id));
+
+        helper.setTodoTags(id, Collections.singletonList("rumah"));
+        assertFalse(helper.findTodoIdsByTags(Collections.singletonList("kerja"), false).contains((int) id));
+        assertTrue(helper.findTodoIdsByTags(Collections.singletonList("rumah"), true).contains((int) id));
+
+        helper.deleteTodo(id);
+        assertTrue(helper.findTodoIdsByTags(Collections.singletonList("rumah"), false).isEmpty());
+    }
+
+    @Test
+    public void delete_removesOrphanTagsOnly() {
+        DatabaseHelper helper = new DatabaseHelper(context);
+        Todo first = new Todo("Satu");
+        first.setTags(Arrays.asList("bersama", "sendiri"));
+        Todo second = new Todo("Dua");
+        second.setTags(Collections.singletonList("bersama"));
+        long firstId = helper.addTodo(first);
+        helper.addTodo(second);
+
+        helper.deleteTodo(firstId);
+
+        SQLiteDatabase db = helper.getReadableDatabase();
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, "tags"));
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, "tags", "name = ?", new String[]{"bersama"}));
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, "todo_tags"));
+    }
+}
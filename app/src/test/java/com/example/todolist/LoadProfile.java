@@ -0,0 +1,122 @@
+package com.example.todolist;
+
+/**
+ * LoadProfile - Konfigurasi beban untuk stress test
+ * Menentukan bentuk data yang diisi ke tabel todos dan skenario sesi yang diputar ulang
+ * Semua nilai bisa diubah lewat Gradle, contoh: ./gradlew testDebugUnitTest -Pstress.rows=1000000
+ */
+public class LoadProfile {
+    // ========== DISTRIBUSI DATA ==========
+    final int rows;               // Jumlah baris yang diisi ke tabel todos (maksimal 1 juta)
+    final int titleMinLength;     // Panjang judul minimum (karakter)
+    final int titleMaxLength;     // Panjang judul maksimum (karakter)
+    final double completedRatio;  // Proporsi tugas yang sudah selesai (0.0 - 1.0)
+    final long createdSpreadMs;   // Rentang waktu pembuatan, dihitung mundur dari sekarang
+    final long seed;              // Seed random agar data bisa direproduksi
+    final int tags;               // Jumlah tag berbeda (0 = tanpa tag)
+    final int maxTagsPerTodo;     // Jumlah tag maksimum per tugas (acak 0..maksimum)
+
+    // ========== SKENARIO SESI ==========
+    final int coldStarts;         // Berapa kali MainActivity dibuka dari awal
+    final int scrollSteps;        // Berapa kali list di-scroll ke posisi acak
+    final int toggleBursts;       // Berapa burst toggle checkbox
+    final int togglesPerBurst;    // Jumlah toggle dalam satu burst
+    final int edits;              // Jumlah edit judul berturut-turut
+    final int deletes;            // Jumlah hapus tugas berturut-turut
+
+    static final int MAX_ROWS = 1_000_000;
+
+    private LoadProfile(int rows, int titleMinLength, int titleMaxLength, double completedRatio,
+                        long createdSpreadMs, long seed, int tags, int maxTagsPerTodo,
+                        int coldStarts, int scrollSteps, int toggleBursts, int togglesPerBurst, int edits, int deletes) {
+        if (rows < 0 || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("stress.rows harus antara 0 dan " + MAX_ROWS + ": " + rows);
+        }
+        if (titleMinLength < 1 || titleMaxLength < titleMinLength) {
+            throw new IllegalArgumentException("Panjang judul tidak valid: " + titleMinLength + ".." + titleMaxLength);
+        }
+        if (completedRatio < 0.0 || completedRatio > 1.0) {
+            throw new IllegalArgumentException("stress.completedRatio harus antara 0 dan 1: " + completedRatio);
+        }
+        if (createdSpreadMs < 0) {
+            throw new IllegalArgumentException("stress.createdSpreadDays tidak boleh negatif: " + createdSpreadMs);
+        }
+        requireNonNegative("stress.tags", tags);
+        requireNonNegative("stress.tagsPerTodo", maxTagsPerTodo);
+        requireNonNegative("stress.coldStarts", coldStarts);
+        requireNonNegative("stress.scrollSteps", scrollSteps);
+        requireNonNegative("stress.toggleBursts", toggleBursts);
+        requireNonNegative("stress.togglesPerBurst", togglesPerBurst);
+        requireNonNegative("stress.edits", edits);
+        requireNonNegative("stress.deletes", deletes);
+        this.rows = rows;
+        this.titleMinLength = titleMinLength;
+        this.titleMaxLength = titleMaxLength;
+        this.completedRatio = completedRatio;
+        this.createdSpreadMs = createdSpreadMs;
+        this.seed = seed;
+        this.tags = tags;
+        this.maxTagsPerTodo = Math.min(maxTagsPerTodo, tags);
+        this.coldStarts = coldStarts;
+        this.scrollSteps = scrollSteps;
+        this.toggleBursts = toggleBursts;
+        this.togglesPerBurst = togglesPerBurst;
+        this.edits = edits;
+        this.deletes = deletes;
+    }
+
+    private static void requireNonNegative(String key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " tidak boleh negatif: " + value);
+        }
+    }
+
+    /**
+     * Membaca profil dari system property "stress.*"
+     * Default-nya kecil supaya ./gradlew test biasa tetap cepat
+     * @param defaultRows = jumlah baris jika stress.rows tidak diisi
+     * @param defaultTags = jumlah tag jika stress.tags tidak diisi
+     */
+    static LoadProfile fromSystemProperties(int defaultRows, int defaultTags) {
+        return new LoadProfile(
+                intProperty("stress.rows", defaultRows),
+                intProperty("stress.titleMinLength", 8),
+                intProperty("stress.titleMaxLength", 60),
+                doubleProperty("stress.completedRatio", 0.3),
+                longProperty("stress.createdSpreadDays", 365) * 24L * 60L * 60L * 1000L,
+                longProperty("stress.seed", 42L),
+                intProperty("stress.tags", defaultTags),
+                intProperty("stress.tagsPerTodo", 3),
+                intProperty("stress.coldStarts", 3),
+                intProperty("stress.scrollSteps", 20),
+                intProperty("stress.toggleBursts", 5),
+                intProperty("stress.togglesPerBurst", 10),
+                intProperty("stress.edits", 10),
+                intProperty("stress.deletes", 10));
+    }
+
+    static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    static long longProperty(String key, long defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    @Override
+    public String toString() {
+        return "rows=" + rows
+                + ", title=" + titleMinLength + ".." + titleMaxLength
+                + ", completedRatio=" + completedRatio
+                + ", createdSpreadMs=" + createdSpreadMs
+                + ", tags=" + tags + " (max " + maxTagsPerTodo + " per todo)"
+                + ", seed=" + seed;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.todolist;
+
+import android.app.AlertDialog;
+import android.app.Dialog;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.os.Looper;
+import android.widget.EditText;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.shadows.ShadowAlertDialog;
+import org.robolectric.shadows.ShadowDialog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Stress test end-to-end untuk MainActivity, dijalankan di JVM lewat Robolectric
+ * Mengisi database sesuai LoadProfile, lalu memutar ulang sesi pengguna berat:
+ * cold start, scroll, burst toggle, edit beruntun, dan hapus beruntun
+ * Secara default tugas juga diberi tag, supaya biaya memuat tag ikut terukur
+ * Test gagal jika latency p99, puncak heap, atau ukuran database melewati budget
+ *
+ * Ukuran benchmark tag (100 ribu tugas, 200 tag): tambahkan -Pstress.benchmark=true
+ *
+ * Contoh menjalankan dengan 1 juta baris:
+ * ./gradlew testDebugUnitTest --tests '*MainActivityStressTest' -Pstress.rows=1000000
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MainActivityStressTest {
+    private static final Duration FRAME = Duration.ofMillis(16); // Satu frame layar (60 fps)
+
+    private LoadProfile profile;
+    private StressRecorder recorder;
+    private Context context;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        // -Pstress.benchmark=true: ukuran benchmark tag (100 ribu tugas, 200 tag), sama dengan TagFilterBenchmarkTest
+        profile = Boolean.getBoolean("stress.benchmark")
+                ? LoadProfile.fromSystemProperties(100_000, 200)
+                : LoadProfile.fromSystemProperties(2_000, 20);
+        recorder = new StressRecorder();
+        context = RuntimeEnvironment.getApplication();
+        random = new Random(profile.seed);
+    }
+
+    @Test
+    public void powerUserSession_staysWithinBudget() {
+        // ========== PEMANASAN ==========
+        // Start pertama dengan database kosong supaya class loading Robolectric tidak ikut terukur
+        Robolectric.buildActivity(MainActivity.class).setup().pause().stop().destroy();
+
+        // ========== SEEDING ==========
+        long seedStart = System.nanoTime();
+        int seeded = new TodoSeeder(profile).seed(new DatabaseHelper(context));
+        System.out.printf("Seeded %d rows in %d ms (%s)%n",
+                seeded, (System.nanoTime() - seedStart) / 1_000_000, profile);
+
+        recorder.resetHeapPeak(); // Puncak heap hanya diukur selama sesi
+
+        // ========== COLD START ==========
+        // Setiap iterasi membuat Activity baru yang memuat ulang semua tugas dari database
+        ActivityController<MainActivity> controller = null;
+        for (int i = 0; i < Math.max(1, profile.coldStarts); i++) {
+            if (controller != null) {
+                controller.pause().stop().destroy();
+            }
+            ActivityController<MainActivity> next = Robolectric.buildActivity(MainActivity.class);
+            recorder.time("cold_start", () -> {
+                next.setup();
+                idleFrame();
+            });
+            controller = next;
+        }
+        RecyclerView recyclerView = controller.get().findViewById(R.id.recyclerView);
+
+        // ========== SCROLL ==========
+        for (int i = 0; i < profile.scrollSteps; i++) {
+            int itemCount = recyclerView.getAdapter().getItemCount();
+            if (itemCount == 0) {
+                break;
+            }
+            int target = random.nextInt(itemCount);
+            recorder.time("scroll", () -> {
+                recyclerView.scrollToPosition(target);
+                idleFrame();
+            });
+        }
+
+        // ========== BURST TOGGLE ==========
+        for (int burst = 0; burst < profile.toggleBursts; burst++) {
+            for (int i = 0; i < profile.togglesPerBurst; i++) {
+                RecyclerView.ViewHolder holder = visibleHolder(recyclerView, i);
+                if (holder == null) {
+                    break;
+                }
+                recorder.time("toggle", () -> {
+                    holder.itemView.findViewById(R.id.checkBox).performClick();
+                    idleFrame();
+                });
+            }
+        }
+
+        // ========== EDIT BERUNTUN ==========
+        // Aplikasi tidak punya edit massal, jadi "bulk edit" diputar sebagai edit beruntun lewat dialog
+        for (int i = 0; i < profile.edits; i++) {
+            RecyclerView.ViewHolder holder = visibleHolder(recyclerView, i);
+            if (holder == null) {
+                break;
+            }
+            String newTitle = "Edit stress #" + i;
+            Dialog previous = ShadowDialog.getLatestDialog();
+            recorder.time("edit", () -> {
+                holder.itemView.findViewById(R.id.buttonEdit).performClick();
+                idleFrame();
+                Dialog dialog = ShadowDialog.getLatestDialog();
+                assertTrue("Dialog edit tidak muncul",
+                        dialog != null && dialog != previous && dialog.isShowing());
+                EditText editText = dialog.findViewById(R.id.editTextTask);
+                editText.setText(newTitle);
+                dialog.findViewById(R.id.buttonSave).performClick();
+                idleFrame();
+            });
+        }
+
+        // ========== HAPUS BERUNTUN ==========
+        for (int i = 0; i < profile.deletes; i++) {
+            RecyclerView.ViewHolder holder = visibleHolder(recyclerView, 0);
+            if (holder == null) {
+                break;
+            }
+            AlertDialog previous = ShadowAlertDialog.getLatestAlertDialog();
+            recorder.time("delete", () -> {
+                holder.itemView.findViewById(R.id.buttonDelete).performClick();
+                idleFrame();
+                AlertDialog dialog = ShadowAlertDialog.getLatestAlertDialog();
+                assertTrue("Dialog konfirmasi hapus tidak muncul",
+                        dialog != null && dialog != previous && dialog.isShowing());
+                dialog.getButton(DialogInterface.BUTTON_POSITIVE).performClick();
+                idleFrame();
+            });
+        }
+
+        controller.pause().stop().destroy();
+
+        // ========== EVALUASI BUDGET ==========
+        recorder.sampleHeap();
+        recorder.sampleDatabase(context.getDatabasePath("todo_database"));
+        String report = recorder.report();
+        System.out.print(report);
+
+        List<String> violations = recorder.budgetViolations();
+        assertTrue("Budget terlampaui: " + violations + "\n" + report, violations.isEmpty());
+    }
+
+    /**
+     * Mengambil ViewHolder yang sedang terlihat di layar
+     * @param offset = urutan item dihitung dari item pertama yang terlihat
+     * @return ViewHolder, atau null jika list kosong
+     */
+    private RecyclerView.ViewHolder visibleHolder(RecyclerView recyclerView, int offset) {
+        if (recyclerView.getAdapter().getItemCount() == 0) {
+            return null;
+        }
+        LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+        int first = layoutManager.findFirstVisibleItemPosition();
+        int last = layoutManager.findLastVisibleItemPosition();
+        assertTrue("RecyclerView belum di-layout", first != RecyclerView.NO_POSITION);
+
+        int position = first + offset % (last - first + 1);
+        RecyclerView.ViewHolder holder = recyclerView.findViewHolderForAdapterPosition(position);
+        assertNotNull("ViewHolder tidak ditemukan di posisi " + position, holder);
+        return holder;
+    }
+
+    /**
+     * Menjalankan antrian main looper dan memajukan jam satu frame
+     * Supaya layout RecyclerView dan listener dialog ikut dieksekusi
+     */
+    private void idleFrame() {
+        shadowOf(Looper.getMainLooper()).idleFor(FRAME);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.todolist;
+
+import android.app.Dialog;
+import android.content.Context;
+import android.os.Looper;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.shadows.ShadowDialog;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Test UI filter tag di MainActivity (Robolectric)
+ * Mengetik di kolom filter, mengganti mode DAN/ATAU, mengedit tag saat filter aktif,
+ * dan memastikan mode filter tetap sama setelah Activity dibuat ulang
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MainActivityTagFilterTest {
+    private Context context;
+    private ActivityController<MainActivity> controller;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+
+        // Urutan tampil (terbaru dulu): Tanpa tag, Rapat, Belanja, Laporan
+        DatabaseHelper helper = new DatabaseHelper(context);
+        addTodo(helper, "Laporan", 1_000, "kerja", "kantor");
+        addTodo(helper, "Belanja", 2_000, "rumah");
+        addTodo(helper, "Rapat", 3_000, "kerja");
+        addTodo(helper, "Tanpa tag", 4_000);
+
+        controller = Robolectric.buildActivity(MainActivity.class).setup();
+        idleFrame();
+    }
+
+    @Test
+    public void noFilter_showsAllNewestFirst() {
+        assertEquals(Arrays.asList("Tanpa tag", "Rapat", "Belanja", "Laporan"), shownTitles());
+    }
+
+    @Test
+    public void filter_andThenOr_showsMatchesNewestFirst() {
+        typeFilter("kerja, kantor");
+        assertEquals("DAN", filterModeButton().getText().toString());
+        assertEquals(Collections.singletonList("Laporan"), shownTitles());
+
+        filterModeButton().performClick();
+        idleFrame();
+        assertEquals("ATAU", filterModeButton().getText().toString());
+        assertEquals(Arrays.asList("Rapat", "Laporan"), shownTitles());
+
+        typeFilter("kerja, rumah");
+        assertEquals(Arrays.asList("Rapat", "Belanja", "Laporan"), shownTitles());
+
+        filterModeButton().performClick();
+        idleFrame();
+        assertEquals("DAN", filterModeButton().getText().toString());
+        assertEquals(Collections.<String>emptyList(), shownTitles());
+    }
+
+    @Test
+    public void filter_withoutMatch_showsFilterEmptyState() {
+        typeFilter("tidak-ada");
+
+        MainActivity activity = controller.get();
+        assertEquals(View.VISIBLE, activity.findViewById(R.id.layoutEmpty).getVisibility());
+        TextView textEmpty = activity.findViewById(R.id.textEmpty);
+        assertEquals(context.getString(R.string.empty_filter), textEmpty.getText().toString());
+    }
+
+    @Test
+    public void editTags_whileFiltered_rowLeavesAndJoins() {
+        typeFilter("kerja");
+        assertEquals(Arrays.asList("Rapat", "Laporan"), shownTitles());
+
+        // Rapat kehilangan tag "kerja" -> keluar dari hasil filter
+        editTags(findTodo("Rapat"), "rumah");
+        assertEquals(Collections.singletonList("Laporan"), shownTitles());
+
+        // Belanja mendapat tag "kerja" -> masuk ke hasil filter, urutan tetap terbaru dulu
+        editTags(findTodo("Belanja"), "rumah, kerja");
+        assertEquals(Arrays.asList("Belanja", "Laporan"), shownTitles());
+    }
+
+    @Test
+    public void recreate_keepsOrMode() {
+        filterModeButton().performClick();
+        typeFilter("kerja, rumah");
+        assertEquals(Arrays.asList("Rapat", "Belanja", "Laporan"), shownTitles());
+
+        controller.recreate();
+        idleFrame();
+
+        assertEquals("ATAU", filterModeButton().getText().toString());
+        assertEquals(Arrays.asList("Rapat", "Belanja", "Laporan"), shownTitles());
+    }
+
+    private void addTodo(DatabaseHelper helper, String title, long createdAt, String... tags) {
+        Todo todo = new Todo(0, title, false, createdAt);
+        todo.setTags(Arrays.asList(tags));
+        helper.addTodo(todo);
+    }
+
+    private Todo findTodo(String title) {
+        for (Todo todo : new DatabaseHelper(context).getAllTodos()) {
+            if (todo.getTitle().equals(title)) {
+                return todo;
+            }
+        }
+        throw new AssertionError("Tugas tidak ditemukan: " + title);
+    }
+
+    /**
+     * Mengetik teks filter seperti user (TextWatcher menerapkan filter)
+     */
+    private void typeFilter(String text) {
+        EditText editTextFilter = controller.get().findViewById(R.id.editTextFilter);
+        editTextFilter.setText(text);
+        idleFrame();
+    }
+
+    /**
+     * Membuka dialog edit lewat listener Activity, mengganti tag, lalu menyimpan
+     */
+    private void editTags(Todo todo, String tags) {
+        Dialog previous = ShadowDialog.getLatestDialog();
+        controller.get().onTodoEdit(todo);
+        idleFrame();
+        Dialog dialog = ShadowDialog.getLatestDialog();
+        assertTrue("Dialog edit tidak muncul", dialog != null && dialog != previous && dialog.isShowing());
+        EditText editTextTags = dialog.findViewById(R.id.editTextTags);
+        editTextTags.setText(tags);
+        dialog.findViewById(R.id.buttonSave).performClick();
+        idleFrame();
+    }
+
+    private Button filterModeButton() {
+        return controller.get().findViewById(R.id.buttonFilterMode);
+    }
+
+    /**
+     * Membaca judul semua item yang ditampilkan adapter, sesuai urutan posisi
+     */
+    private List<String> shownTitles() {
+        RecyclerView recyclerView = controller.get().findViewById(R.id.recyclerView);
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < recyclerView.getAdapter().getItemCount(); i++) {
+            recyclerView.scrollToPosition(i);
+            idleFrame();
+            RecyclerView.ViewHolder holder = recyclerView.findViewHolderForAdapterPosition(i);
+            TextView textTitle = holder.itemView.findViewById(R.id.textTitle);
+            titles.add(textTitle.getText().toString());
+        }
+        return titles;
+    }
+
+    private void idleFrame() {
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(16));
+    }
+}
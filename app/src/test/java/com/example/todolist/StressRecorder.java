@@ -0,0 +1,157 @@
+package com.example.todolist;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * StressRecorder - Mencatat latency tiap operasi, puncak heap, dan ukuran database
+ * Lalu membandingkannya dengan budget dari system property "stress.budget.*"
+ */
+public class StressRecorder {
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>(); // Latency (ns) per jenis operasi
+    private long peakHeapBytes;                                              // Puncak heap (jumlah puncak tiap pool)
+    private long databaseBytes;                                              // Ukuran file database terakhir
+
+    /**
+     * Menjalankan aksi dan mencatat lamanya ke dalam kelompok operasi tertentu
+     * @param operation = nama operasi (cold_start, scroll, toggle, edit, delete)
+     */
+    public void time(String operation, Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        long elapsed = System.nanoTime() - start;
+
+        List<Long> samples = latencies.get(operation);
+        if (samples == null) {
+            samples = new ArrayList<>();
+            latencies.put(operation, samples);
+        }
+        samples.add(elapsed);
+        sampleHeap();
+    }
+
+    /**
+     * Mereset puncak semua memory pool heap, dipanggil tepat sebelum sesi yang diukur
+     * GC dijalankan dulu supaya sampah dari tahap seeding tidak ikut terhitung
+     */
+    public void resetHeapPeak() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        peakHeapBytes = 0;
+    }
+
+    /**
+     * Membaca puncak heap dari MemoryPoolMXBean (dicatat JVM, termasuk puncak di tengah operasi)
+     * Catatan: ini perkiraan batas atas. Puncak tiap pool bisa terjadi di waktu berbeda,
+     * dan objek yang belum di-GC ikut terhitung sebagai terpakai
+     */
+    public void sampleHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        peakHeapBytes = Math.max(peakHeapBytes, total);
+    }
+
+    /**
+     * Mencatat ukuran database termasuk file journal/WAL di sebelahnya
+     */
+    public void sampleDatabase(File databaseFile) {
+        long total = 0;
+        for (String suffix : new String[]{"", "-journal", "-wal", "-shm"}) {
+            File file = new File(databaseFile.getPath() + suffix);
+            if (file.exists()) {
+                total += file.length();
+            }
+        }
+        databaseBytes = total;
+    }
+
+    /**
+     * Menghitung persentil (nearest-rank) dalam milidetik
+     * @param percentile = 50, 90, 99, dst
+     */
+    public double percentileMs(String operation, double percentile) {
+        List<Long> samples = latencies.get(operation);
+        if (samples == null || samples.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = new long[samples.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public long getDatabaseBytes() {
+        return databaseBytes;
+    }
+
+    /**
+     * Membuat laporan ringkas semua metrik yang tercatat
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            String operation = entry.getKey();
+            report.append(String.format(Locale.US, "%-12s n=%-5d p50=%8.2fms p90=%8.2fms p99=%8.2fms max=%8.2fms%n",
+                    operation, entry.getValue().size(),
+                    percentileMs(operation, 50), percentileMs(operation, 90),
+                    percentileMs(operation, 99), percentileMs(operation, 100)));
+        }
+        report.append(String.format(Locale.US, "peak heap    %.1f MB%n", peakHeapBytes / (1024.0 * 1024.0)));
+        report.append(String.format(Locale.US, "database     %.1f MB%n", databaseBytes / (1024.0 * 1024.0)));
+        return report.toString();
+    }
+
+    /**
+     * Membandingkan metrik dengan budget
+     * Budget p99 per operasi: stress.budget.<operasi>.p99Ms, heap: stress.budget.heapMb, database: stress.budget.dbMb
+     * @return daftar pelanggaran budget (kosong jika semua aman)
+     */
+    public List<String> budgetViolations() {
+        List<String> violations = new ArrayList<>();
+        for (String operation : latencies.keySet()) {
+            // Operasi yang memuat seluruh data (cold start, rebuild bitmap) diberi budget lebih longgar
+            long defaultBudget = operation.equals("cold_start") || operation.equals("tag_rebuild") ? 5_000 : 1_000;
+            long budgetMs = LoadProfile.longProperty("stress.budget." + operation + ".p99Ms", defaultBudget);
+            double p99 = percentileMs(operation, 99);
+            if (p99 > budgetMs) {
+                violations.add(String.format(Locale.US, "%s p99 %.2fms > budget %dms", operation, p99, budgetMs));
+            }
+        }
+
+        long heapBudgetMb = LoadProfile.longProperty("stress.budget.heapMb", 1_024);
+        if (peakHeapBytes > heapBudgetMb * 1024 * 1024) {
+            violations.add(String.format(Locale.US, "peak heap %.1fMB > budget %dMB",
+                    peakHeapBytes / (1024.0 * 1024.0), heapBudgetMb));
+        }
+
+        long databaseBudgetMb = LoadProfile.longProperty("stress.budget.dbMb", 512);
+        if (databaseBytes > databaseBudgetMb * 1024 * 1024) {
+            violations.add(String.format(Locale.US, "database %.1fMB > budget %dMB",
+                    databaseBytes / (1024.0 * 1024.0), databaseBudgetMb));
+        }
+        return violations;
+    }
+}
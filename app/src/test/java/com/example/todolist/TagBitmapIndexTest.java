@@ -0,0 +1,102 @@
+package com.example.todolist;
+
+import org.junit.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test untuk TagBitmapIndex (berjalan di JVM biasa, tanpa Android)
+ */
+public class TagBitmapIndexTest {
+
+    @Test
+    public void normalizeTag_stripsHashAndLowercases() {
+        assertEquals("kerja", TagBitmapIndex.normalizeTag("  #Kerja "));
+        assertEquals("rumah", TagBitmapIndex.normalizeTag("##RUMAH"));
+        assertEquals("", TagBitmapIndex.normalizeTag(" # "));
+    }
+
+    @Test
+    public void parseTags_splitsOnCommaAndDedupes() {
+        assertEquals(Arrays.asList("kerja", "rumah"), TagBitmapIndex.parseTags("#Kerja, rumah,kerja"));
+        assertTrue(TagBitmapIndex.parseTags("  , ").isEmpty());
+    }
+
+    @Test
+    public void parseTags_keepsMultiWordTag() {
+        assertEquals(Arrays.asList("rumah tangga", "kerja"),
+                TagBitmapIndex.parseTags("Rumah   Tangga, #kerja"));
+    }
+
+    @Test
+    public void matchAll_returnsIntersection() {
+        TagBitmapIndex index = loadedIndex();
+        assertArrayEquals(new int[]{2}, index.matchAll(Arrays.asList("a", "b")).toArray());
+    }
+
+    @Test
+    public void matchAll_withUnknownTag_isEmpty() {
+        TagBitmapIndex index = loadedIndex();
+        assertTrue(index.matchAll(Arrays.asList("a", "tidak-ada")).isEmpty());
+    }
+
+    @Test
+    public void matchAny_returnsUnionAndIgnoresUnknownTag() {
+        TagBitmapIndex index = loadedIndex();
+        assertArrayEquals(new int[]{1, 2, 3}, index.matchAny(Arrays.asList("a", "b", "tidak-ada")).toArray());
+    }
+
+    @Test
+    public void matchResult_isACopy() {
+        TagBitmapIndex index = loadedIndex();
+        index.matchAny(Collections.singletonList("a")).add(99);
+        assertFalse(index.matchAny(Collections.singletonList("a")).contains(99));
+    }
+
+    @Test
+    public void update_beforeLoad_isIgnored() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.update(5, Collections.<String>emptyList(), Collections.singletonList("a"));
+        assertFalse(index.isLoaded());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void update_movesTodoBetweenTags() {
+        TagBitmapIndex index = loadedIndex();
+        index.update(1, Collections.singletonList("a"), Collections.singletonList("c"));
+        assertArrayEquals(new int[]{2}, index.matchAny(Collections.singletonList("a")).toArray());
+        assertArrayEquals(new int[]{1}, index.matchAny(Collections.singletonList("c")).toArray());
+    }
+
+    @Test
+    public void remove_dropsEmptyBitmaps() {
+        TagBitmapIndex index = loadedIndex();
+        index.remove(3, Collections.singletonList("b"));
+        index.remove(2, Arrays.asList("a", "b"));
+        assertEquals(1, index.size()); // Tag "b" tidak punya tugas lagi
+        assertArrayEquals(new int[]{1}, index.matchAny(Arrays.asList("a", "b")).toArray());
+    }
+
+    /**
+     * Indeks berisi: tag "a" = {1, 2}, tag "b" = {2, 3}
+     */
+    private TagBitmapIndex loadedIndex() {
+        Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+        bitmaps.put("a", RoaringBitmap.bitmapOf(1, 2));
+        bitmaps.put("b", RoaringBitmap.bitmapOf(2, 3));
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.load(bitmaps);
+        return index;
+    }
+}
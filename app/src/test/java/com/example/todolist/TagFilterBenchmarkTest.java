@@ -0,0 +1,142 @@
+package com.example.todolist;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Benchmark filter tag berbasis bitmap di DatabaseHelper
+ * Default kecil (2 ribu tugas, 20 tag) supaya ./gradlew test biasa tetap cepat.
+ * Ukuran penuh 100 ribu tugas dan 200 tag dijalankan dengan -Pstress.benchmark=true
+ * Mengukur rebuild bitmap (setelah cold start), filter DAN/ATAU, dan penulisan tag
+ *
+ * Contoh menjalankan:
+ * ./gradlew testDebugUnitTest --tests '*TagFilterBenchmarkTest' -Pstress.benchmark=true
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TagFilterBenchmarkTest {
+    private static final int QUERIES = 200;          // Jumlah query filter per mode
+    private static final int MAX_TAGS_PER_QUERY = 4; // Satu query memakai 2..4 tag
+    private static final int REBUILDS = 10;          // Jumlah rebuild bitmap yang diukur
+    private static final int WRITES = 100;           // Jumlah tambah/ubah tag/hapus yang diukur
+
+    private LoadProfile profile;
+    private StressRecorder recorder;
+    private Context context;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        boolean fullSize = Boolean.getBoolean("stress.benchmark");
+        profile = fullSize
+                ? LoadProfile.fromSystemProperties(100_000, 200)
+                : LoadProfile.fromSystemProperties(2_000, 20);
+        recorder = new StressRecorder();
+        context = RuntimeEnvironment.getApplication();
+        random = new Random(profile.seed);
+    }
+
+    @Test
+    public void tagFilter_staysWithinBudget() {
+        long seedStart = System.nanoTime();
+        int seeded = new TodoSeeder(profile).seed(new DatabaseHelper(context));
+        System.out.printf("Seeded %d rows in %d ms (%s)%n",
+                seeded, (System.nanoTime() - seedStart) / 1_000_000, profile);
+
+        // Pemanasan JVM: satu rebuild dan beberapa query yang tidak diukur
+        DatabaseHelper warmUp = new DatabaseHelper(context);
+        for (int i = 0; i < 20; i++) {
+            warmUp.findTodoIdsByTags(randomTags(), i % 2 == 0);
+        }
+        recorder.resetHeapPeak();
+
+        // ========== REBUILD ==========
+        // Helper baru = kondisi setelah cold start, bitmap belum dibangun
+        DatabaseHelper databaseHelper = null;
+        for (int i = 0; i < REBUILDS; i++) {
+            DatabaseHelper fresh = new DatabaseHelper(context);
+            List<String> tags = randomTags();
+            recorder.time("tag_rebuild", () -> fresh.findTodoIdsByTags(tags, true));
+            databaseHelper = fresh;
+        }
+        DatabaseHelper helper = databaseHelper;
+
+        // ========== FILTER ==========
+        for (int i = 0; i < QUERIES; i++) {
+            List<String> tags = randomTags();
+            recorder.time("tag_and", () -> helper.findTodoIdsByTags(tags, true));
+            recorder.time("tag_or", () -> helper.findTodoIdsByTags(tags, false));
+        }
+
+        // ========== PENULISAN ==========
+        // Setiap penulisan harus langsung terlihat di bitmap tanpa rebuild
+        for (int i = 0; i < WRITES; i++) {
+            List<String> tags = randomTags();
+            List<String> newTags = randomTags();
+            Todo todo = new Todo("Benchmark tag #" + i);
+            todo.setTags(tags);
+
+            long[] id = new long[1];
+            recorder.time("tag_add", () -> id[0] = helper.addTodo(todo));
+            assertTrue(helper.findTodoIdsByTags(tags, true).contains(TagBitmapIndex.ordinal(id[0])));
+
+            recorder.time("tag_write", () -> helper.setTodoTags(id[0], newTags));
+            assertTrue(helper.findTodoIdsByTags(newTags, true).contains(TagBitmapIndex.ordinal(id[0])));
+
+            recorder.time("tag_delete", () -> helper.deleteTodo(id[0]));
+            assertFalse(helper.findTodoIdsByTags(newTags, false).contains(TagBitmapIndex.ordinal(id[0])));
+        }
+
+        // Hasil bitmap harus sama dengan hitungan dari database
+        RoaringBitmap fromIndex = helper.findTodoIdsByTags(Arrays.asList("tag-0"), true);
+        assertEquals(countTodosWithTag(helper, "tag-0"), fromIndex.getCardinality());
+
+        recorder.sampleHeap();
+        recorder.sampleDatabase(context.getDatabasePath("todo_database"));
+        String report = recorder.report();
+        System.out.print(report);
+
+        List<String> violations = recorder.budgetViolations();
+        assertTrue("Budget terlampaui: " + violations + "\n" + report, violations.isEmpty());
+    }
+
+    /**
+     * Menghitung tugas bertag tertentu langsung dengan SQL, sebagai pembanding bitmap
+     */
+    private int countTodosWithTag(DatabaseHelper helper, String tag) {
+        Cursor cursor = helper.getReadableDatabase().rawQuery(
+                "SELECT COUNT(*) FROM todo_tags tt JOIN tags t ON t.id = tt.tag_id WHERE t.name = ?",
+                new String[]{tag});
+        cursor.moveToFirst();
+        int count = cursor.getInt(0);
+        cursor.close();
+        return count;
+    }
+
+    /**
+     * Memilih 2..MAX_TAGS_PER_QUERY tag acak dari tag hasil seeding
+     */
+    private List<String> randomTags() {
+        int count = 2 + random.nextInt(MAX_TAGS_PER_QUERY - 1);
+        List<String> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add("tag-" + random.nextInt(Math.max(1, profile.tags)));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.todolist;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.Random;
+
+/**
+ * TodoSeeder - Mengisi tabel todos (dan tag-nya) dengan data sintetis sesuai LoadProfile
+ * Memakai prepared statement dan transaksi per batch supaya 1 juta baris tetap cepat
+ */
+public class TodoSeeder {
+    private static final int BATCH_SIZE = 50_000; // Commit setiap 50 ribu baris
+    private static final String WORDS =
+            "belanja rapat laporan tugas kuliah olahraga bayar tagihan kirim email "
+            + "beli susu jemput anak servis motor baca buku masak makan malam cuci baju";
+
+    private final LoadProfile profile;
+
+    public TodoSeeder(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Menyisipkan profile.rows baris ke database milik helper
+     * @return jumlah baris yang berhasil disisipkan
+     */
+    public int seed(DatabaseHelper helper) {
+        Random random = new Random(profile.seed);
+        long now = System.currentTimeMillis();
+        SQLiteDatabase db = helper.getWritableDatabase();
+        SQLiteStatement insert = db.compileStatement(
+                "INSERT INTO todos (title, completed, created_at) VALUES (?, ?, ?)");
+        SQLiteStatement insertTodoTag = db.compileStatement(
+                "INSERT OR IGNORE INTO todo_tags (todo_id, tag_id) VALUES (?, ?)");
+
+        int inserted = 0;
+        try {
+            long[] tagIds = seedTags(db);
+            while (inserted < profile.rows) {
+                int batchEnd = Math.min(inserted + BATCH_SIZE, profile.rows);
+                db.beginTransaction();
+                try {
+                    for (; inserted < batchEnd; inserted++) {
+                        insert.clearBindings();
+                        insert.bindString(1, randomTitle(random, inserted));
+                        insert.bindLong(2, random.nextDouble() < profile.completedRatio ? 1 : 0);
+                        insert.bindLong(3, now - (long) (random.nextDouble() * profile.createdSpreadMs));
+                        long todoId = insert.executeInsert();
+
+                        // Pilih 0..maxTagsPerTodo tag acak (duplikat diabaikan oleh INSERT OR IGNORE)
+                        int tagCount = tagIds.length == 0 ? 0 : random.nextInt(profile.maxTagsPerTodo + 1);
+                        for (int t = 0; t < tagCount; t++) {
+                            insertTodoTag.bindLong(1, todoId);
+                            insertTodoTag.bindLong(2, tagIds[random.nextInt(tagIds.length)]);
+                            insertTodoTag.executeInsert();
+                        }
+                    }
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+            }
+        } finally {
+            insert.close();
+            insertTodoTag.close();
+            db.close();
+        }
+        return inserted;
+    }
+
+    /**
+     * Membuat profile.tags tag bernama "tag-0", "tag-1", dst
+     * @return ID setiap tag di tabel tags
+     */
+    private long[] seedTags(SQLiteDatabase db) {
+        long[] tagIds = new long[profile.tags];
+        SQLiteStatement insertTag = db.compileStatement("INSERT INTO tags (name) VALUES (?)");
+        db.beginTransaction();
+        try {
+            for (int i = 0; i < tagIds.length; i++) {
+                insertTag.bindString(1, "tag-" + i);
+                tagIds[i] = insertTag.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            insertTag.close();
+        }
+        return tagIds;
+    }
+
+    /**
+     * Membuat judul acak dengan panjang di antara titleMinLength dan titleMaxLength
+     */
+    private String randomTitle(Random random, int index) {
+        int length = profile.titleMinLength
+                + random.nextInt(profile.titleMaxLength - profile.titleMinLength + 1);
+        StringBuilder title = new StringBuilder(length);
+        title.append('#').append(index).append(' ');
+        while (title.length() < length) {
+            title.append(WORDS, random.nextInt(WORDS.length()), WORDS.length());
+        }
+        title.setLength(length);
+        return title.toString();
+    }
+}